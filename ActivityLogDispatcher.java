@@ -0,0 +1,276 @@
+package com.example.managementservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Front door for {@link ActivityLogger} used by the controllers. In the default synchronous mode it
+ * simply delegates. With {@code activity-log.async.enabled=true} entries are put on a bounded queue
+ * and a dedicated worker writes them in batches, one transaction per tenant per batch, so the diff
+ * and insert no longer sit on the request thread.
+ * <p>
+ * Async mode only starts when a {@link ContextPropagator} bean is present. The propagator captures
+ * the tenant routing context on the request thread and restores it on the worker. Providing one
+ * also asserts that {@code ActivityLogger} does not touch lazy associations of the logged entities,
+ * since the request's persistence context is closed by the time the worker runs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityLogDispatcher {
+
+    public enum OverflowPolicy {
+        /** Make the request thread wait for room in the queue. */
+        BLOCK,
+        /** Discard the oldest queued entry to make room for the new one. */
+        DROP_OLDEST
+    }
+
+    /**
+     * Carries request-bound state, such as the current tenant, from the request thread to the
+     * worker. Captured contexts are compared with {@code equals} to group a batch by tenant.
+     */
+    public interface ContextPropagator {
+
+        Object capture();
+
+        void restore(Object context);
+
+        void clear();
+    }
+
+    private static final Object NO_CONTEXT = new Object();
+
+    private final ActivityLogger activityLogger;
+    private final ObjectProvider<ContextPropagator> contextPropagators;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${activity-log.async.enabled:false}")
+    private boolean asyncEnabled;
+
+    @Value("${activity-log.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${activity-log.async.batch-size:200}")
+    private int batchSize;
+
+    @Value("${activity-log.async.overflow-policy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${activity-log.async.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private ContextPropagator contextPropagator;
+    private TransactionTemplate transactionTemplate;
+    private Timer flushTimer;
+    private BlockingQueue<Entry> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private final AtomicLong failedEntries = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+        contextPropagator = contextPropagators.getIfAvailable();
+        if (contextPropagator == null) {
+            log.warn("activity-log.async.enabled is set but no ActivityLogDispatcher.ContextPropagator bean exists; "
+                    + "activity logs stay synchronous");
+            return;
+        }
+        flushTimer = Timer.builder("issues.activity_log.flush")
+                .description("Time to write one batch of queued activity log entries")
+                .register(meterRegistry);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::drainLoop, "activity-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker == null) {
+            return;
+        }
+        // No interrupt: the worker notices within one poll timeout, drains what is queued and
+        // exits without aborting a write that is in flight.
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Activity log shut down with {} unwritten entries", queue.size());
+        }
+    }
+
+    /**
+     * Queues an entry for the worker, or writes it on the calling thread when the worker is not
+     * running. Under {@code BLOCK} the wait for room gives up and writes synchronously if the
+     * worker stops meanwhile.
+     */
+    public void logActivity(Object oldValue, Object newValue, Jwt jwt, String entityName) {
+        if (!isWorkerRunning()) {
+            activityLogger.logActivity(oldValue, newValue, jwt, entityName);
+            return;
+        }
+        Entry entry = new Entry(oldValue, newValue, jwt, entityName, contextPropagator.capture());
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            while (!queue.offer(entry)) {
+                if (queue.poll() != null) {
+                    droppedEntries.incrementAndGet();
+                }
+            }
+        } else {
+            try {
+                while (!queue.offer(entry, 1, TimeUnit.SECONDS)) {
+                    if (!isWorkerRunning()) {
+                        write(entry);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                write(entry);
+                return;
+            }
+        }
+        // stop() may have run between the check above and the enqueue. If the entry is still
+        // queued once the worker is gone, nobody else will write it; whoever removes it does.
+        if (!isWorkerRunning() && queue.remove(entry)) {
+            write(entry);
+        }
+    }
+
+    private boolean isWorkerRunning() {
+        return queue != null && running && worker.isAlive();
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    public long getFailedEntries() {
+        return failedEntries.get();
+    }
+
+    public long getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    /**
+     * Runs until stopped and the queue is empty. A batch that fails outright, for example because
+     * the context could not be restored, is counted as failed and the worker moves on; if the
+     * worker exits anyway, {@code running} is cleared so requests fall back to synchronous writes.
+     */
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Entry first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                try {
+                    flush(batch);
+                } catch (Throwable e) {
+                    failedEntries.addAndGet(batch.size());
+                    log.error("Failed to write activity log batch of {} entries", batch.size(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Map<Object, List<Entry>> byContext = new LinkedHashMap<>();
+            for (Entry entry : batch) {
+                byContext.computeIfAbsent(entry.context(), c -> new ArrayList<>()).add(entry);
+            }
+            byContext.forEach(this::writeGroup);
+        } finally {
+            sample.stop(flushTimer);
+        }
+        lastBatchSize.set(batch.size());
+    }
+
+    /**
+     * Writes the entries of one tenant in a single transaction. If that fails, the entries are
+     * retried one per transaction so a single bad entry does not lose the rest.
+     */
+    private void writeGroup(Object context, List<Entry> entries) {
+        contextPropagator.restore(context);
+        try {
+            transactionTemplate.executeWithoutResult(status -> entries.forEach(this::write));
+        } catch (RuntimeException batchFailure) {
+            log.warn("Activity log batch of {} entries failed, retrying individually", entries.size(), batchFailure);
+            for (Entry entry : entries) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(entry));
+                } catch (RuntimeException e) {
+                    failedEntries.incrementAndGet();
+                    log.error("Failed to write activity log for {}", entry.entityName(), e);
+                }
+            }
+        } finally {
+            contextPropagator.clear();
+        }
+    }
+
+    private void write(Entry entry) {
+        activityLogger.logActivity(entry.oldValue(), entry.newValue(), entry.jwt(), entry.entityName());
+    }
+
+    private record Entry(Object oldValue, Object newValue, Jwt jwt, String entityName, Object context) {
+
+        private Entry {
+            context = Objects.requireNonNullElse(context, NO_CONTEXT);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.managementservice.exchange.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class BulkIssueUpdateRequest {
+
+    @NotNull(message = "Issue ID cannot be null")
+    private UUID issueId;
+
+    @Valid
+    @NotNull(message = "Issue details cannot be null")
+    private IssueRequest issue;
+}
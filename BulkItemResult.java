@@ -0,0 +1,21 @@
+package com.example.managementservice.exchange.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkItemResult {
+
+    private int index;
+    private boolean success;
+    private String message;
+
+    public static BulkItemResult success(int index, String message) {
+        return new BulkItemResult(index, true, message);
+    }
+
+    public static BulkItemResult failure(int index, String message) {
+        return new BulkItemResult(index, false, message);
+    }
+}
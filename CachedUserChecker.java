@@ -0,0 +1,212 @@
+package com.example.managementservice.config.multitenant;
+
+import com.example.managementservice.utils.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Memoizes {@link UserChecker} project permission checks in two layers. Every decision is kept for
+ * the rest of the current request, so a bulk call or a {@code @PreAuthorize} check followed by an
+ * explicit one asks once. Granted decisions are also shared across requests per tenant, user and
+ * project for a short TTL when {@code user-checker.cache.enabled=true}; denials are never shared,
+ * so a newly granted permission takes effect on the next request. Code that changes project
+ * membership or completes a project should publish a {@link ProjectAccessChangedEvent}; otherwise
+ * the TTL bounds how long a revoked permission can still be honoured.
+ * <p>
+ * That an issue's project is not completed is shared the same way, per tenant and issue, since it
+ * does not depend on the user. Such entries do not record the project, so any
+ * {@code ProjectAccessChangedEvent} drops all of them.
+ */
+@Component
+public class CachedUserChecker {
+
+    private record AccessKey(String tenant, String user, String check, String projectId) {
+    }
+
+    private static final String MODIFY = "modify";
+    private static final String ACCESS = "access";
+    private static final String PROJECT_OPEN = "project-open";
+    private static final String REQUEST_MEMO_ATTRIBUTE = CachedUserChecker.class.getName() + ".decisions";
+
+    private final UserChecker userChecker;
+    private final boolean enabled;
+    private final BoundedTtlCache<AccessKey, Boolean> decisions;
+
+    public CachedUserChecker(UserChecker userChecker,
+                             @Value("${user-checker.cache.enabled:false}") boolean enabled,
+                             @Value("${user-checker.cache.max-size:10000}") int maxSize,
+                             @Value("${user-checker.cache.ttl-ms:30000}") long ttlMillis) {
+        this.userChecker = userChecker;
+        this.enabled = enabled;
+        this.decisions = new BoundedTtlCache<>(maxSize, ttlMillis);
+    }
+
+    public boolean canModifyProject(UUID projectId) {
+        String memoKey = MODIFY + ':' + projectId;
+        Map<String, Boolean> memo = requestMemo();
+        Boolean memoized = memo == null ? null : memo.get(memoKey);
+        if (memoized != null) {
+            return memoized;
+        }
+        boolean allowed = lookupCanModifyProject(projectId);
+        if (memo != null) {
+            memo.put(memoKey, allowed);
+        }
+        return allowed;
+    }
+
+    /**
+     * Checks each distinct project once. {@link UserChecker} has no batch lookup, so this is one
+     * {@link #canModifyProject(UUID)} per project rather than a single query.
+     */
+    public Map<UUID, Boolean> canModifyEachProject(Collection<UUID> projectIds) {
+        Map<UUID, Boolean> result = new LinkedHashMap<>();
+        for (UUID projectId : projectIds) {
+            result.computeIfAbsent(projectId, this::canModifyProject);
+        }
+        return result;
+    }
+
+    /**
+     * Only successful checks are cached; a denied check is re-evaluated and throws every time.
+     */
+    public void checkProjectAccessOrThrow(String projectIdHeader) {
+        checkOrThrow(ACCESS + ':' + projectIdHeader, accessKey(ACCESS, projectIdHeader, true),
+                () -> userChecker.checkProjectAccessOrThrow(projectIdHeader));
+    }
+
+    /**
+     * Like {@link #checkProjectAccessOrThrow(String)}, only an open project is cached.
+     */
+    public void denyIfProjectCompletedByIssueId(UUID issueId) {
+        String id = issueId == null ? null : issueId.toString();
+        checkOrThrow(PROJECT_OPEN + ':' + id, accessKey(PROJECT_OPEN, id, false),
+                () -> userChecker.denyIfProjectCompletedByIssueId(issueId));
+    }
+
+    /**
+     * Checks each distinct issue once and returns the denial of every issue whose project is
+     * completed, instead of throwing at the first. {@link UserChecker} has no batch lookup, so an
+     * issue not yet cached still costs one call.
+     */
+    public Map<UUID, RuntimeException> denyIfProjectCompletedByIssueIds(Collection<UUID> issueIds) {
+        Map<UUID, RuntimeException> denials = new LinkedHashMap<>();
+        Set<UUID> checked = new HashSet<>();
+        for (UUID issueId : issueIds) {
+            if (!checked.add(issueId)) {
+                continue;
+            }
+            try {
+                denyIfProjectCompletedByIssueId(issueId);
+            } catch (RuntimeException e) {
+                denials.put(issueId, e);
+            }
+        }
+        return denials;
+    }
+
+    /**
+     * Drops the decisions of one project, or all of them when the event carries no project.
+     */
+    @EventListener
+    public void onProjectAccessChanged(ProjectAccessChangedEvent event) {
+        if (event.projectId() == null) {
+            invalidateAll();
+        } else {
+            invalidateProject(event.projectId());
+        }
+    }
+
+    public void invalidateProject(UUID projectId) {
+        String id = projectId.toString();
+        decisions.invalidateIf(k -> id.equals(k.projectId()) || PROJECT_OPEN.equals(k.check()));
+        clearRequestMemo();
+    }
+
+    public void invalidateAll() {
+        decisions.invalidateAll();
+        clearRequestMemo();
+    }
+
+    public Map<String, Long> getStats() {
+        return decisions.getStats();
+    }
+
+    private void checkOrThrow(String memoKey, AccessKey key, Runnable check) {
+        Map<String, Boolean> memo = requestMemo();
+        if (memo != null && memo.containsKey(memoKey)) {
+            return;
+        }
+        if (key == null) {
+            check.run();
+        } else {
+            decisions.get(key, k -> {
+                check.run();
+                return Boolean.TRUE;
+            });
+        }
+        if (memo != null) {
+            memo.put(memoKey, Boolean.TRUE);
+        }
+    }
+
+    private boolean lookupCanModifyProject(UUID projectId) {
+        AccessKey key = accessKey(MODIFY, projectId == null ? null : projectId.toString(), true);
+        if (key == null) {
+            return userChecker.canModifyProject(projectId);
+        }
+        // The loader returns null for a denial, which the cache does not store.
+        return decisions.get(key, k -> userChecker.canModifyProject(projectId) ? Boolean.TRUE : null) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Boolean> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<String, Boolean>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Boolean>) memo;
+    }
+
+    private static void clearRequestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * {@code projectId} holds an issue ID for {@code PROJECT_OPEN}. Checks that are not
+     * {@code perUser} are shared by all users of the tenant.
+     */
+    private AccessKey accessKey(String check, String projectId, boolean perUser) {
+        if (!enabled || projectId == null) {
+            return null;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            return null;
+        }
+        String tenant = jwt.getIssuer() == null ? "" : jwt.getIssuer().toString();
+        return new AccessKey(tenant, perUser ? jwt.getSubject() : "", check, projectId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.managementservice.exchange.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class ChunkedUploadInitRequest {
+
+    @NotBlank(message = "File name cannot be blank")
+    @Size(max = 255, message = "File name should not exceed 255 characters")
+    private String fileName;
+
+    private String contentType;
+
+    @Min(value = 1, message = "Total chunks must be at least 1")
+    @Max(value = 10000, message = "Total chunks should not exceed 10000")
+    private int totalChunks;
+
+    @NotNull(message = "Total size cannot be null")
+    @Positive(message = "Total size must be positive")
+    private Long totalSize;
+}
@@ -0,0 +1,556 @@
+package com.example.managementservice.service;
+
+import com.example.managementservice.config.StorageCallLimiter;
+import com.example.managementservice.exchange.request.AttachmentRequest;
+import com.example.managementservice.exchange.request.ChunkedUploadInitRequest;
+import com.example.managementservice.exchange.response.ChunkedUploadStatusResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stages large attachments in chunks on local disk so each request only holds a servlet
+ * thread for the duration of one chunk. Chunks may arrive in any order and in parallel;
+ * a client that loses its connection asks for the upload status and re-sends only the
+ * missing chunks. On completion the chunks are read back in order as one stream and handed to
+ * {@link IssueService#uploadAttachments} so callers get the usual {@link AttachmentRequest}.
+ * <p>
+ * Each upload declares its total size up front, which may not exceed
+ * {@code attachments.chunked.max-file-size}, and no more than that is ever staged for it. A user
+ * may have at most {@code attachments.chunked.max-sessions-per-user} uploads open at once. Each
+ * session keeps a small manifest next to its chunks, so uploads survive a restart, and sessions
+ * idle for longer than {@code attachments.chunked.session-ttl-ms} are removed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final String CHUNK_PREFIX = "chunk-";
+    private static final String PART_SUFFIX = ".part";
+    private static final String MANIFEST_FILE = "session.properties";
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final IssueService issueService;
+    private final StorageCallLimiter storageCallLimiter;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock initLock = new ReentrantLock();
+    private ScheduledExecutorService cleaner;
+
+    @Value("${attachments.chunked.staging-dir:${java.io.tmpdir}/issue-chunked-uploads}")
+    private String stagingDir;
+
+    @Value("${attachments.chunked.max-chunk-size:16777216}")
+    private long maxChunkSize;
+
+    @Value("${attachments.chunked.max-file-size:1073741824}")
+    private long maxFileSize;
+
+    @Value("${attachments.chunked.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    @Value("${attachments.chunked.session-ttl-ms:86400000}")
+    private long sessionTtlMs;
+
+    @PostConstruct
+    void start() {
+        recoverSessions();
+        cleaner = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "chunked-upload-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(60_000, sessionTtlMs / 10);
+        cleaner.scheduleWithFixedDelay(this::expireIdleSessions, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        cleaner.shutdownNow();
+    }
+
+    public ChunkedUploadStatusResponse initUpload(ChunkedUploadInitRequest request, Jwt jwt) {
+        String fileName = sanitizeFileName(request.getFileName());
+        long totalSize = request.getTotalSize();
+        if (totalSize > maxFileSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "File exceeds " + maxFileSize + " bytes");
+        }
+        if (totalSize > request.getTotalChunks() * maxChunkSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Total size does not fit in " + request.getTotalChunks() + " chunk(s) of at most " + maxChunkSize + " bytes");
+        }
+        String owner = jwt.getSubject();
+        String uploadId = UUID.randomUUID().toString();
+        UploadSession session = new UploadSession(uploadId, owner, fileName, request.getContentType(), request.getTotalChunks(), totalSize);
+        // Counting and registering under one lock keeps parallel inits from overshooting the cap.
+        initLock.lock();
+        try {
+            long open = sessions.values().stream().filter(existing -> existing.owner.equals(owner)).count();
+            if (open >= maxSessionsPerUser) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                        "At most " + maxSessionsPerUser + " chunked uploads may be open at once");
+            }
+            Files.createDirectories(sessionDir(uploadId));
+            writeManifest(session);
+            sessions.put(uploadId, session);
+        } catch (IOException e) {
+            deleteDirectory(uploadId);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not start upload", e);
+        } finally {
+            initLock.unlock();
+        }
+        return session.toStatus();
+    }
+
+    public ChunkedUploadStatusResponse getStatus(String uploadId, Jwt jwt) {
+        UploadSession session = getSession(uploadId, jwt);
+        session.touch();
+        return session.toStatus();
+    }
+
+    /**
+     * Writes one chunk to a temporary file while hashing it, then moves it into place so a
+     * dropped connection never leaves a half-written chunk counted as received. The copy stops
+     * as soon as the chunk exceeds {@code attachments.chunked.max-chunk-size} or the upload
+     * exceeds its declared size; a re-sent chunk may reuse the bytes of the copy it replaces.
+     */
+    public ChunkedUploadStatusResponse putChunk(String uploadId, int chunkIndex, InputStream body, String expectedChecksum, Jwt jwt) {
+        UploadSession session = getSession(uploadId, jwt);
+        if (chunkIndex < 0 || chunkIndex >= session.totalChunks) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk index out of range: " + chunkIndex);
+        }
+
+        // Chunks share the read lock so they can be written in parallel; complete, abort and
+        // expiry take the write lock.
+        if (!session.lock.readLock().tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload is being completed or aborted");
+        }
+        Path partial = sessionDir(uploadId).resolve(CHUNK_PREFIX + chunkIndex + "." + UUID.randomUUID() + PART_SUFFIX);
+        try {
+            ensureOpen(session);
+            StagedChunk chunk = copyBounded(session, body, partial, session.chunkSizes.getOrDefault(chunkIndex, 0L));
+            try {
+                if (expectedChecksum != null && !expectedChecksum.equalsIgnoreCase(chunk.checksum())) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Checksum mismatch for chunk " + chunkIndex);
+                }
+                Files.move(partial, sessionDir(uploadId).resolve(CHUNK_PREFIX + chunkIndex),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                session.stagedBytes.addAndGet(-chunk.size());
+                throw e;
+            }
+            Long replaced = session.chunkSizes.put(chunkIndex, chunk.size());
+            if (replaced != null) {
+                session.stagedBytes.addAndGet(-replaced);
+            }
+            session.touch();
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not store chunk " + chunkIndex, e);
+        } finally {
+            deleteQuietly(partial);
+            session.lock.readLock().unlock();
+        }
+        return session.toStatus();
+    }
+
+    /**
+     * Stores the file by streaming the chunks in order, without joining them into a second copy
+     * first. The store itself still runs on the calling thread. The staged chunks are only
+     * discarded once the file has been stored, so a failed completion can simply be retried.
+     */
+    public List<AttachmentRequest> completeUpload(String uploadId, Jwt jwt) {
+        UploadSession session = getSession(uploadId, jwt);
+        lockExclusively(session);
+        try {
+            ensureOpen(session);
+            if (session.chunkSizes.size() != session.totalChunks) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Upload is missing " + (session.totalChunks - session.chunkSizes.size()) + " chunk(s)");
+            }
+            if (session.stagedBytes.get() != session.totalSize) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Upload has " + session.stagedBytes.get() + " bytes but declared " + session.totalSize);
+            }
+            List<AttachmentRequest> uploaded = storageCallLimiter.call(() -> issueService.uploadAttachments(
+                    List.of(new StagedMultipartFile(session, sessionDir(uploadId))), jwt));
+            close(session);
+            return uploaded;
+        } finally {
+            session.touch();
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    public void abortUpload(String uploadId, Jwt jwt) {
+        UploadSession session = getSession(uploadId, jwt);
+        lockExclusively(session);
+        try {
+            close(session);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    private UploadSession getSession(String uploadId, Jwt jwt) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload not found: " + uploadId);
+        }
+        if (!session.owner.equals(jwt.getSubject())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Upload belongs to another user");
+        }
+        return session;
+    }
+
+    private void lockExclusively(UploadSession session) {
+        if (!session.lock.writeLock().tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload is busy, retry once pending chunks have finished");
+        }
+    }
+
+    private void ensureOpen(UploadSession session) {
+        if (session.closed) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload not found: " + session.uploadId);
+        }
+    }
+
+    /**
+     * Must be called with the session's write lock held.
+     */
+    private void close(UploadSession session) {
+        session.closed = true;
+        sessions.remove(session.uploadId);
+        deleteDirectory(session.uploadId);
+    }
+
+    /**
+     * Copies a chunk while counting its bytes against the session's declared size. The bytes are
+     * reserved as they arrive, so parallel chunks cannot jointly overshoot; {@code credit} is the
+     * size of an earlier copy of the same chunk, which the new copy will replace. On failure the
+     * reservation is released.
+     */
+    private StagedChunk copyBounded(UploadSession session, InputStream body, Path target, long credit) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                written += read;
+                if (written > maxChunkSize) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Chunk exceeds " + maxChunkSize + " bytes");
+                }
+                if (session.stagedBytes.addAndGet(read) - credit > session.totalSize) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "Upload exceeds its declared size of " + session.totalSize + " bytes");
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The read that tripped a limit was already added, so release everything counted.
+            session.stagedBytes.addAndGet(-written);
+            throw e;
+        }
+        return new StagedChunk(HexFormat.of().formatHex(digest.digest()), written);
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..") || name.chars().anyMatch(Character::isISOControl)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid file name");
+        }
+        return name;
+    }
+
+    private void expireIdleSessions() {
+        long now = System.currentTimeMillis();
+        for (UploadSession session : sessions.values()) {
+            if (now - session.lastActivity < sessionTtlMs || !session.lock.writeLock().tryLock()) {
+                continue;
+            }
+            try {
+                if (!session.closed) {
+                    log.info("Expiring idle chunked upload {}", session.uploadId);
+                    close(session);
+                }
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds sessions from their manifests after a restart. Directories that cannot be
+     * recovered, and half-written chunks, are removed, since the cleaner only knows about
+     * sessions that are in memory.
+     */
+    private void recoverSessions() {
+        Path root = Paths.get(stagingDir);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                String uploadId = dir.getFileName().toString();
+                try {
+                    recoverSession(uploadId, dir);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Discarding chunked upload {} that could not be recovered", uploadId, e);
+                    deleteDirectory(uploadId);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not list chunked uploads in {}", root, e);
+        }
+    }
+
+    private void recoverSession(String uploadId, Path dir) throws IOException {
+        UploadSession session = readManifest(uploadId);
+        if (session == null) {
+            deleteDirectory(uploadId);
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PART_SUFFIX)) {
+                    deleteQuietly(file);
+                } else if (name.startsWith(CHUNK_PREFIX)) {
+                    int index = Integer.parseInt(name.substring(CHUNK_PREFIX.length()));
+                    if (index < 0 || index >= session.totalChunks) {
+                        deleteQuietly(file);
+                        continue;
+                    }
+                    long size = Files.size(file);
+                    session.chunkSizes.put(index, size);
+                    session.stagedBytes.addAndGet(size);
+                }
+            }
+        }
+        session.lastActivity = Files.getLastModifiedTime(dir).toMillis();
+        sessions.put(uploadId, session);
+    }
+
+    private void writeManifest(UploadSession session) throws IOException {
+        Properties manifest = new Properties();
+        manifest.setProperty("owner", session.owner);
+        manifest.setProperty("fileName", session.fileName);
+        manifest.setProperty("totalChunks", Integer.toString(session.totalChunks));
+        manifest.setProperty("totalSize", Long.toString(session.totalSize));
+        if (session.contentType != null) {
+            manifest.setProperty("contentType", session.contentType);
+        }
+        try (Writer writer = Files.newBufferedWriter(sessionDir(session.uploadId).resolve(MANIFEST_FILE), StandardCharsets.UTF_8)) {
+            manifest.store(writer, null);
+        }
+    }
+
+    private UploadSession readManifest(String uploadId) {
+        Path file = sessionDir(uploadId).resolve(MANIFEST_FILE);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+            return new UploadSession(uploadId, Objects.requireNonNull(manifest.getProperty("owner")),
+                    Objects.requireNonNull(manifest.getProperty("fileName")),
+                    manifest.getProperty("contentType"), Integer.parseInt(manifest.getProperty("totalChunks")),
+                    Long.parseLong(manifest.getProperty("totalSize")));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Discarding chunked upload {} with unreadable manifest", uploadId, e);
+            return null;
+        }
+    }
+
+    private void deleteDirectory(String uploadId) {
+        try {
+            FileSystemUtils.deleteRecursively(sessionDir(uploadId));
+        } catch (IOException e) {
+            log.warn("Failed to clean up staged upload {}", uploadId, e);
+        }
+    }
+
+    private Path sessionDir(String uploadId) {
+        return Paths.get(stagingDir, uploadId);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private record StagedChunk(String checksum, long size) {
+    }
+
+    private static final class UploadSession {
+        private final String uploadId;
+        private final String owner;
+        private final String fileName;
+        private final String contentType;
+        private final int totalChunks;
+        private final long totalSize;
+        private final Map<Integer, Long> chunkSizes = new ConcurrentSkipListMap<>();
+        private final AtomicLong stagedBytes = new AtomicLong();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long lastActivity = System.currentTimeMillis();
+        private volatile boolean closed;
+
+        private UploadSession(String uploadId, String owner, String fileName, String contentType, int totalChunks, long totalSize) {
+            this.uploadId = uploadId;
+            this.owner = owner;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.totalChunks = totalChunks;
+            this.totalSize = totalSize;
+        }
+
+        private void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+
+        private ChunkedUploadStatusResponse toStatus() {
+            return new ChunkedUploadStatusResponse(uploadId, fileName, totalChunks, totalSize, stagedBytes.get(),
+                    new TreeSet<>(chunkSizes.keySet()));
+        }
+    }
+
+    /**
+     * Exposes the staged chunks to the existing upload path as one stream, opening each chunk
+     * file only when the previous one has been read. Only valid while the session's write lock
+     * is held, which keeps the chunks in place.
+     */
+    private static final class StagedMultipartFile implements MultipartFile {
+        private final UploadSession session;
+        private final Path dir;
+
+        private StagedMultipartFile(UploadSession session, Path dir) {
+            this.session = session;
+            this.dir = dir;
+        }
+
+        @Override
+        public String getName() {
+            return "attachments";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return session.fileName;
+        }
+
+        @Override
+        public String getContentType() {
+            return session.contentType;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return session.totalSize;
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            try (InputStream in = getInputStream()) {
+                return in.readAllBytes();
+            }
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return new SequenceInputStream(new ChunkStreams());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            try (InputStream in = getInputStream()) {
+                Files.copy(in, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        private final class ChunkStreams implements Enumeration<InputStream> {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < session.totalChunks;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!hasMoreElements()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return Files.newInputStream(dir.resolve(CHUNK_PREFIX + next++));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.managementservice.exchange.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.SortedSet;
+
+@Data
+@AllArgsConstructor
+public class ChunkedUploadStatusResponse {
+
+    private String uploadId;
+    private String fileName;
+    private int totalChunks;
+    private long totalSize;
+    private long receivedBytes;
+    private SortedSet<Integer> receivedChunks;
+}
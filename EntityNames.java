@@ -0,0 +1,26 @@
+package com.example.managementservice.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the entity name recorded in activity logs from a request, DTO or response class,
+ * e.g. {@code IssueRequest} becomes {@code Issue}. Names are computed once per class.
+ */
+public final class EntityNames {
+
+    private static final Pattern SUFFIX = Pattern.compile("(Request|DTO|Response)$");
+
+    private static final ClassValue<String> NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return SUFFIX.matcher(type.getSimpleName()).replaceAll("");
+        }
+    };
+
+    private EntityNames() {
+    }
+
+    public static String of(Class<?> type) {
+        return NAMES.get(type);
+    }
+}
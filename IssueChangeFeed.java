@@ -0,0 +1,374 @@
+package com.example.managementservice.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-project change feed pushed to board clients over Server-Sent Events. Mutations publish
+ * compact events that are held briefly so rapid changes to the same issue collapse into one, then
+ * a single flusher assigns event IDs and hands them to each subscriber's bounded queue. Subscribers
+ * are drained by a fixed pool of {@code issue-feed.sender-threads} sender threads, so a slow client
+ * never holds up the flusher or a publishing request; one that falls too far behind receives
+ * {@code RESYNC} and is disconnected.
+ * <p>
+ * Recent events are kept per project, and a project's feed outlives its last subscriber for
+ * {@code issue-feed.idle-retention-ms}, so a client that reconnects with {@code Last-Event-ID}
+ * receives what it missed. Event IDs come from one sequence seeded from the startup time, so they
+ * only ever increase, even across restarts; any ID the feed cannot account for gets {@code RESYNC},
+ * telling the client to reload the board.
+ */
+@Slf4j
+@Component
+public class IssueChangeFeed {
+
+    public enum ChangeType {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED, COMMENTED, RESYNC
+    }
+
+    public record IssueChangeEvent(long id, ChangeType type, UUID projectId, UUID issueId, long timestamp) {
+    }
+
+    private static final IssueChangeEvent HEARTBEAT = new IssueChangeEvent(0, null, null, null, 0);
+
+    @Value("${issue-feed.flush-interval-ms:250}")
+    private long flushIntervalMs;
+
+    @Value("${issue-feed.heartbeat-interval-ms:30000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${issue-feed.replay-buffer-size:1000}")
+    private int replayBufferSize;
+
+    @Value("${issue-feed.subscriber-queue-size:1024}")
+    private int subscriberQueueSize;
+
+    @Value("${issue-feed.idle-retention-ms:300000}")
+    private long idleRetentionMs;
+
+    @Value("${issue-feed.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${issue-feed.sender-threads:8}")
+    private int senderThreads;
+
+    // Startup millis shifted left by 20 bits leaves room for about a million events per
+    // millisecond of uptime before the next start's first ID could fall below this run's last.
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() << 20);
+    private final Map<UUID, ProjectFeed> feeds = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private ExecutorService sender;
+
+    @PostConstruct
+    void start() {
+        // Each subscriber has at most one drain task queued or running, so the queue is bounded
+        // by the number of subscribers.
+        AtomicInteger senderCount = new AtomicInteger();
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "issue-change-feed-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "issue-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        feeds.values().forEach(feed -> feed.subscribers.forEach(Subscriber::close));
+        sender.shutdown();
+    }
+
+    public SseEmitter subscribe(UUID projectId, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(projectId, new SseEmitter(emitterTimeoutMs), subscriberQueueSize);
+        subscriber.emitter.onCompletion(() -> unsubscribe(projectId, subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(projectId, subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(projectId, subscriber));
+        // Registering inside compute() keeps the flusher from dropping the feed as idle meanwhile.
+        feeds.compute(projectId, (id, existing) -> {
+            ProjectFeed current = existing != null ? existing : new ProjectFeed(sequence.incrementAndGet());
+            current.lock.lock();
+            try {
+                replay(current, projectId, subscriber, lastEventId);
+                current.subscribers.add(subscriber);
+            } finally {
+                current.lock.unlock();
+            }
+            return current;
+        });
+        return subscriber.emitter;
+    }
+
+    private void unsubscribe(UUID projectId, Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        ProjectFeed feed = feeds.get(projectId);
+        if (feed != null) {
+            feed.subscribers.remove(subscriber);
+        }
+    }
+
+    /**
+     * Queues a change for the next flush. Changes to the same issue that have not been sent yet
+     * collapse into one carrying the most significant type, in the order {@code DELETED},
+     * {@code CREATED}, {@code STATUS_CHANGED}, {@code UPDATED}, {@code COMMENTED}, and the latest
+     * timestamp. Changes without an issue ID are never collapsed. Changes to
+     * a project nobody has followed within the retention period are dropped; a client that later
+     * resumes with an older ID gets {@code RESYNC}.
+     */
+    public void publish(UUID projectId, ChangeType type, UUID issueId) {
+        if (projectId == null) {
+            return;
+        }
+        ProjectFeed feed = feeds.get(projectId);
+        if (feed == null) {
+            return;
+        }
+        Object coalesceKey = issueId != null ? issueId : new Object();
+        feed.lock.lock();
+        try {
+            PendingChange previous = feed.pending.remove(coalesceKey);
+            ChangeType merged = previous != null && significance(previous.type()) > significance(type) ? previous.type() : type;
+            feed.pending.put(coalesceKey, new PendingChange(merged, issueId, System.currentTimeMillis()));
+        } finally {
+            feed.lock.unlock();
+        }
+    }
+
+    private static int significance(ChangeType type) {
+        return switch (type) {
+            case DELETED -> 5;
+            case CREATED -> 4;
+            case STATUS_CHANGED -> 3;
+            case UPDATED -> 2;
+            case COMMENTED -> 1;
+            case RESYNC -> 0;
+        };
+    }
+
+    public int getSubscriberCount() {
+        return feeds.values().stream().mapToInt(feed -> feed.subscribers.size()).sum();
+    }
+
+    private void flushAll() {
+        feeds.forEach((projectId, feed) -> {
+            try {
+                flush(projectId, feed);
+            } catch (RuntimeException e) {
+                log.error("Failed to flush change feed for project {}", projectId, e);
+            }
+        });
+        long now = System.currentTimeMillis();
+        feeds.keySet().forEach(projectId -> feeds.computeIfPresent(projectId,
+                (id, feed) -> feed.isExpired(now, idleRetentionMs) ? null : feed));
+    }
+
+    /**
+     * Holds the feed lock only to assign IDs and record the events; delivery happens afterwards
+     * through each subscriber's queue.
+     */
+    private void flush(UUID projectId, ProjectFeed feed) {
+        List<IssueChangeEvent> events;
+        List<Subscriber> targets;
+        feed.lock.lock();
+        try {
+            if (feed.pending.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<>(feed.pending.size());
+            for (PendingChange change : feed.pending.values()) {
+                IssueChangeEvent event = new IssueChangeEvent(sequence.incrementAndGet(), change.type(), projectId, change.issueId(), change.timestamp());
+                events.add(event);
+                feed.recent.addLast(event);
+                if (feed.recent.size() > replayBufferSize) {
+                    feed.evictedUpTo = feed.recent.removeFirst().id();
+                }
+            }
+            feed.pending.clear();
+            // Subscribers registered after this point replayed these events from the buffer.
+            targets = List.copyOf(feed.subscribers);
+        } finally {
+            feed.lock.unlock();
+        }
+        for (Subscriber subscriber : targets) {
+            events.forEach(subscriber::offer);
+        }
+    }
+
+    /**
+     * Queues what a reconnecting client missed. IDs before the feed existed, IDs whose successors
+     * were evicted from the buffer, and IDs this node never issued all get {@code RESYNC}.
+     */
+    private void replay(ProjectFeed feed, UUID projectId, Subscriber subscriber, Long lastEventId) {
+        if (lastEventId == null) {
+            return;
+        }
+        long current = sequence.get();
+        if (lastEventId < feed.baseline || lastEventId < feed.evictedUpTo || lastEventId > current) {
+            subscriber.offer(new IssueChangeEvent(current, ChangeType.RESYNC, projectId, null, System.currentTimeMillis()));
+            return;
+        }
+        for (IssueChangeEvent event : feed.recent) {
+            if (event.id() > lastEventId) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        feeds.values().forEach(feed -> feed.subscribers.forEach(Subscriber::offerHeartbeat));
+    }
+
+    private record PendingChange(ChangeType type, UUID issueId, long timestamp) {
+    }
+
+    private static final class ProjectFeed {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Map<Object, PendingChange> pending = new LinkedHashMap<>();
+        private final Deque<IssueChangeEvent> recent = new ArrayDeque<>();
+        private final long baseline;
+        private long evictedUpTo;
+        private long lastActive = System.currentTimeMillis();
+
+        private ProjectFeed(long baseline) {
+            this.baseline = baseline;
+        }
+
+        private boolean isExpired(long now, long retentionMillis) {
+            lock.lock();
+            try {
+                if (!subscribers.isEmpty() || !pending.isEmpty()) {
+                    lastActive = now;
+                    return false;
+                }
+                return now - lastActive >= retentionMillis;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * One connection. The flusher, replay and heartbeats only offer to the queue; a sender task,
+     * of which at most one runs at a time, is the only code that writes to the emitter.
+     */
+    private final class Subscriber {
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<IssueChangeEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Subscriber(UUID projectId, SseEmitter emitter, int capacity) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void offer(IssueChangeEvent event) {
+            if (closed || overflowed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                overflowed = true;
+                queue.clear();
+            }
+            scheduleDrain();
+        }
+
+        private void offerHeartbeat() {
+            // A full queue means events are already on their way, which keeps the connection alive.
+            if (!closed && !overflowed && queue.offer(HEARTBEAT)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                IssueChangeEvent event;
+                while (!closed && !overflowed && (event = queue.poll()) != null) {
+                    if (!send(event)) {
+                        return;
+                    }
+                }
+                if (overflowed && !closed) {
+                    log.debug("Change feed subscriber of project {} fell behind, sending RESYNC", projectId);
+                    IssueChangeEvent resync = new IssueChangeEvent(sequence.get(), ChangeType.RESYNC, projectId, null, System.currentTimeMillis());
+                    if (send(resync)) {
+                        close();
+                    }
+                }
+            } finally {
+                draining.set(false);
+                if (!closed && (overflowed || !queue.isEmpty())) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private boolean send(IssueChangeEvent event) {
+            try {
+                if (event == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.id()))
+                            .name(event.type().name())
+                            .data(event));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                queue.clear();
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.managementservice.controller;
 
-import com.example.managementservice.config.ActivityLogger;
-import com.example.managementservice.config.multitenant.UserChecker;
+import com.example.managementservice.config.ActivityLogDispatcher;
+import com.example.managementservice.config.MetricsConfig;
+import com.example.managementservice.config.StorageCallLimiter;
+import com.example.managementservice.config.multitenant.CachedUserChecker;
 import com.example.managementservice.exchange.request.*;
 import com.example.managementservice.exchange.response.*;
 import com.example.managementservice.exchange.response.ApiResponseHandler;
@@ -12,79 +14,117 @@ import com.example.managementservice.imap.IssueFromEmailService;
 import com.example.managementservice.model.Comments;
 import com.example.managementservice.model.EmailConfiguration;
 import com.example.managementservice.model.Issue;
+import com.example.managementservice.service.ChunkedUploadService;
+import com.example.managementservice.service.IssueChangeFeed;
+import com.example.managementservice.service.IssueReadCache;
 import com.example.managementservice.service.IssueService;
 import com.example.managementservice.utils.AppConstants;
+import com.example.managementservice.utils.EntityNames;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.parameters.P;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 @RequestMapping(value = "/api/v1/issues")
 @Tag(name = "Issue Management", description = "APIs for managing issues")
 @RequiredArgsConstructor
+@Timed(value = "issues.requests", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class IssueController {
 
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final IssueService issueService;
-    private final ActivityLogger activityLogger;
+    private final ActivityLogDispatcher activityLogDispatcher;
     private final IssueFromEmailService issueFromEmailService;
-    private final UserChecker userChecker;
+    private final CachedUserChecker cachedUserChecker;
+    private final ChunkedUploadService chunkedUploadService;
+    private final Validator validator;
+    private final IssueReadCache issueReadCache;
+    private final IssueChangeFeed issueChangeFeed;
+    private final MeterRegistry meterRegistry;
+    private final StorageCallLimiter storageCallLimiter;
 
     @Operation(summary = "Create a new issue", description = "Creates a new issue in the system")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Issue created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input provided")
     })
-    @PreAuthorize("@userChecker.canModifyProject(#issueRequest.projectId)")
+    @PreAuthorize("@cachedUserChecker.canModifyProject(#issueRequest.projectId)")
     @PostMapping(value = "/create")
     public ResponseEntity<ApiResponseHandler<Object>> createIssue(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Valid @RequestBody @Parameter(description = "Details of the issue to be created", required = true) IssueRequest issueRequest, @AuthenticationPrincipal Jwt jwt) {
         Issue issue = issueService.createIssue(issueRequest, jwt);
-        String entityName = issueRequest.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(null, issue, jwt, entityName);
+        issueReadCache.invalidateIssue(tenantId, issueRequest.getProjectId(), null);
+        issueChangeFeed.publish(issueRequest.getProjectId(), IssueChangeFeed.ChangeType.CREATED, issueIdOf(issue));
+        String entityName = EntityNames.of(issueRequest.getClass());
+        activityLogDispatcher.logActivity(null, issue, jwt, entityName);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponseHandler<>(true, "Issue created successfully"));
     }
 
-    @PreAuthorize("@userChecker.canModifyProject(#quickIssueRequest.projectId)")
+    @PreAuthorize("@cachedUserChecker.canModifyProject(#quickIssueRequest.projectId)")
     @PostMapping(value = "/create/quick-ticket")
     @Operation(summary = "Create a quick issue", description = "Creates a quick issue in the system")
     public ResponseEntity<ApiResponseHandler<Object>> createQuickIssue(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Valid @RequestBody @Parameter(description = "Details of the quick issue to be created", required = true) QuickIssueRequest quickIssueRequest, @AuthenticationPrincipal Jwt jwt) {
         Issue newIssue = issueService.createQuickIssue(quickIssueRequest, jwt);
-        String entityName = quickIssueRequest.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(null, newIssue, jwt, entityName);
+        issueReadCache.invalidateIssue(tenantId, quickIssueRequest.getProjectId(), null);
+        issueChangeFeed.publish(quickIssueRequest.getProjectId(), IssueChangeFeed.ChangeType.CREATED, issueIdOf(newIssue));
+        String entityName = EntityNames.of(quickIssueRequest.getClass());
+        activityLogDispatcher.logActivity(null, newIssue, jwt, entityName);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponseHandler<>(true, "Issue created successfully"));
     }
@@ -160,8 +200,11 @@ public class IssueController {
     @GetMapping(value = "/key")
     public ResponseEntity<ApiResponseHandler<IssueResponse>> getIssueByKey(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The key of the issue to be retrieved", required = true, example = "12345") @RequestParam Long key, @RequestParam UUID projectId) {
-        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issue fetched by key successfully", issueService.getIssueByKey(key, projectId)));
+        cachedUserChecker.checkProjectAccessOrThrow(projectId.toString());
+        IssueResponse issue = issueReadCache.getIssueByKey(tenantId, projectId, key, () -> issueService.getIssueByKey(key, projectId));
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issue fetched by key successfully", issue));
     }
 
     @Operation(summary = "Get issues by reporter", description = "Retrieves a list of issues created by a specific reporter")
@@ -182,8 +225,10 @@ public class IssueController {
     @GetMapping(value = "/{id}")
     public ResponseEntity<ApiResponseHandler<IssueResponse>> getIssueById(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the issue to be retrieved", required = true) @PathVariable UUID id) {
-        IssueResponse issue = issueService.getIssueResponseById(id);
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
+        IssueResponse issue = issueReadCache.getIssueById(tenantId, id, () -> issueService.getIssueResponseById(id));
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issue fetched successfully", issue));
     }
 
@@ -191,8 +236,10 @@ public class IssueController {
     @GetMapping(value = "/parent/{id}")
     public ResponseEntity<ApiResponseHandler<ParentIssueDetails>> getChildIssues(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the parent issue to fetch child issues", required = true) @PathVariable UUID id) {
-        ParentIssueDetails issues = issueService.getAllIssuesByParentId(id);
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
+        ParentIssueDetails issues = issueReadCache.getChildIssues(tenantId, id, () -> issueService.getAllIssuesByParentId(id));
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "All the child issues fetched successfully", issues));
     }
 
@@ -238,6 +285,15 @@ public class IssueController {
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issues fetched successfully", issues));
     }
 
+    @Operation(summary = "Subscribe to project changes", description = "Streams issue and comment changes of a project as Server-Sent Events")
+    @GetMapping(value = "/project/{id}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToProjectChanges(
+            @Parameter(description = "The UUID of the project to follow", required = true) @PathVariable UUID id,
+            @Parameter(description = "ID of the last event received, to resume after a reconnect") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        cachedUserChecker.checkProjectAccessOrThrow(id.toString());
+        return issueChangeFeed.subscribe(id, lastEventId);
+    }
+
     @Operation(summary = "Get issues grouped by status", description = "Fetches up to 10 issues for each status in the project's configuration")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Issues fetched successfully"),
@@ -258,16 +314,19 @@ public class IssueController {
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issues fetched successfully", issueService.findAllIssuesByStatus(id, statusId, pageable)));
     }
 
-    @PreAuthorize("@userChecker.canModifyProject(#issueRequest.projectId)")
+    @PreAuthorize("@cachedUserChecker.canModifyProject(#issueRequest.projectId)")
     @Operation(summary = "Update an issue", description = "Updates an existing issue by ID")
     @PutMapping(value = "/{id}")
     public ResponseEntity<ApiResponseHandler<Object>> updateIssue(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the issue to be updated", required = true) @PathVariable UUID id,
             @Valid @RequestBody @Parameter(description = "Details of the issue to be updated", required = true) IssueRequest issueRequest, @AuthenticationPrincipal Jwt jwt) {
         UpdateRequest<Issue> updateRequest = issueService.updateIssue(id, issueRequest, jwt);
-        String entityName = issueRequest.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(updateRequest.getOldValue(), updateRequest.getUpdatedValue(), jwt, entityName);
+        issueReadCache.invalidateIssues(tenantId, projectIdsOf(updateRequest), Set.of(id));
+        publishChange(updateRequest, IssueChangeFeed.ChangeType.UPDATED, id);
+        String entityName = EntityNames.of(issueRequest.getClass());
+        activityLogDispatcher.logActivity(updateRequest.getOldValue(), updateRequest.getUpdatedValue(), jwt, entityName);
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issue updated successfully"));
     }
 
@@ -275,11 +334,14 @@ public class IssueController {
     @DeleteMapping(value = "/{id}")
     public ResponseEntity<ApiResponseHandler<Object>> deleteIssue(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the issue to be deleted", required = true) @PathVariable UUID id, @AuthenticationPrincipal Jwt jwt) throws Exception {
-        userChecker.checkProjectAccessOrThrow(projectIdHeader);
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
        Issue issue = issueService.deleteIssue(id, jwt);
-       String entityName = issue.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-       activityLogger.logActivity(issue, null, jwt, entityName);
+       issueReadCache.invalidateIssue(tenantId, projectIdOf(issue), id);
+       issueChangeFeed.publish(projectIdOf(issue), IssueChangeFeed.ChangeType.DELETED, id);
+       String entityName = EntityNames.of(issue.getClass());
+       activityLogDispatcher.logActivity(issue, null, jwt, entityName);
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issue deleted successfully"));
     }
 
@@ -294,6 +356,7 @@ public class IssueController {
     @Operation(summary = "Add a comment to an issue", description = "Adds a comment to a specific issue by its ID")
     public ResponseEntity<ApiResponseHandler<Comments>> addComment(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the issue to add comment", required = true)
             @PathVariable UUID id,
             @Valid
@@ -301,16 +364,20 @@ public class IssueController {
             @Parameter(description = "Comment details including the content, commented by, and timestamp", required = true)
             CommentRequest commentRequest,
             @AuthenticationPrincipal Jwt jwt) {
-        userChecker.checkProjectAccessOrThrow(projectIdHeader);
-        String entityName = commentRequest.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(null, commentRequest.getContent(), jwt, entityName);
-
-        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Comment added successfully", issueService.addComment(id, commentRequest, jwt)));
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
+        String entityName = EntityNames.of(commentRequest.getClass());
+        activityLogDispatcher.logActivity(null, commentRequest.getContent(), jwt, entityName);
+
+        Comments comment = issueService.addComment(id, commentRequest, jwt);
+        issueReadCache.invalidateComments(tenantId, id);
+        issueChangeFeed.publish(projectIdOf(issueOf(comment)), IssueChangeFeed.ChangeType.COMMENTED, id);
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Comment added successfully", comment));
     }
 
     @PutMapping(value = "/comment/{id}")
     public ResponseEntity<ApiResponseHandler<UpdateRequest<Object>>> updateComment(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the comment to be updated", required = true)
             @PathVariable UUID id,
             @Valid
@@ -318,10 +385,13 @@ public class IssueController {
             @Parameter(description = "Updated comment details including the content and timestamp", required = true)
             CommentRequest commentRequest,
             @AuthenticationPrincipal Jwt jwt) {
-        userChecker.checkProjectAccessOrThrow(projectIdHeader);
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
         UpdateRequest comments = issueService.updateComment(id, commentRequest, jwt);
-        String entityName = commentRequest.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(comments.getOldValue(), comments.getUpdatedValue(), jwt, entityName);
+        Issue commentedIssue = issueOf(comments.getUpdatedValue(), comments.getOldValue());
+        issueReadCache.invalidateComments(tenantId, issueIdOf(commentedIssue));
+        issueChangeFeed.publish(projectIdOf(commentedIssue), IssueChangeFeed.ChangeType.COMMENTED, issueIdOf(commentedIssue));
+        String entityName = EntityNames.of(commentRequest.getClass());
+        activityLogDispatcher.logActivity(comments.getOldValue(), comments.getUpdatedValue(), jwt, entityName);
 
         return ResponseEntity.ok(new ApiResponseHandler<UpdateRequest<Object>>(true, "Comment updated successfully", comments));
     }
@@ -330,17 +400,21 @@ public class IssueController {
     @Operation(summary = "Delete a comment", description = "Deletes a comment by its ID")
     public ResponseEntity<ApiResponseHandler<Object>> deleteComment(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the comment to be deleted", required = true)
             @PathVariable UUID id,
             @AuthenticationPrincipal Jwt jwt) throws Exception {
-        userChecker.checkProjectAccessOrThrow(projectIdHeader);
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
         Comments comments = issueService.deleteComment(id, jwt);
+        Issue commentedIssue = issueOf(comments);
+        issueReadCache.invalidateComments(tenantId, issueIdOf(commentedIssue));
+        issueChangeFeed.publish(projectIdOf(commentedIssue), IssueChangeFeed.ChangeType.COMMENTED, issueIdOf(commentedIssue));
         String details = String.format("%s deleted Comment: \"%s\" | CommentId: %s",
                 jwt.getClaimAsString("preferred_username"),
                 comments.getComment(),
                 comments.getCommentId());
-        String entityName = comments.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(details, null, jwt, entityName);
+        String entityName = EntityNames.of(comments.getClass());
+        activityLogDispatcher.logActivity(details, null, jwt, entityName);
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Comment deleted successfully"));
     }
 
@@ -348,23 +422,263 @@ public class IssueController {
     @Operation(summary = "Get all comments by issue", description = "Retrieves all comments associated with a specific issue")
     public ResponseEntity<ApiResponseHandler<List<CommentResponse>>> getAllCommentsByIssue(
             @RequestHeader(value = AppConstants.PROJECT_ID_HEADER, required = false) String projectIdHeader,
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @Parameter(description = "The UUID of the issue to get comments", required = true)
             @PathVariable UUID id) {
-        List<CommentResponse> comments = issueService.getComments(id);
+        cachedUserChecker.checkProjectAccessOrThrow(projectIdHeader);
+        List<CommentResponse> comments = issueReadCache.getComments(tenantId, id, () -> issueService.getComments(id));
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Comments fetched successfully", comments));
     }
 
     @PatchMapping(value = "/update-status")
     @Operation(summary = "Update issue status", description = "Updates the status of an existing issue")
-    public ResponseEntity<ApiResponseHandler<Object>> updateStatusOfIssue(@RequestBody @Valid StatusUpdateRequest statusUpdateRequest, @AuthenticationPrincipal Jwt jwt) {
-        userChecker.denyIfProjectCompletedByIssueId(statusUpdateRequest.getIssueId());
+    public ResponseEntity<ApiResponseHandler<Object>> updateStatusOfIssue(
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
+            @RequestBody @Valid StatusUpdateRequest statusUpdateRequest, @AuthenticationPrincipal Jwt jwt) {
+        cachedUserChecker.denyIfProjectCompletedByIssueId(statusUpdateRequest.getIssueId());
         UpdateRequest updateRequest = issueService.updateIssueStatus(statusUpdateRequest);
-        String entityName = updateRequest.getClass().getSimpleName().replaceAll("(Request|DTO|Response)$", "");
-        activityLogger.logActivity(updateRequest.getOldValue(), updateRequest.getUpdatedValue(), jwt, entityName);
+        issueReadCache.invalidateIssues(tenantId, projectIdsOf(updateRequest), Set.of(statusUpdateRequest.getIssueId()));
+        publishChange(updateRequest, IssueChangeFeed.ChangeType.STATUS_CHANGED, statusUpdateRequest.getIssueId());
+        String entityName = EntityNames.of(updateRequest.getClass());
+        activityLogDispatcher.logActivity(updateRequest.getOldValue(), updateRequest.getUpdatedValue(), jwt, entityName);
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Issue status updated successfully"));
 
     }
 
+    @PostMapping(value = "/bulk")
+    @Operation(summary = "Create issues in bulk", description = "Validates every issue first, then creates the valid ones and reports the outcome per item")
+    public ResponseEntity<ApiResponseHandler<List<BulkItemResult>>> createIssuesInBulk(
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
+            @RequestBody @Parameter(description = "Issues to be created", required = true) List<IssueRequest> issueRequests,
+            @AuthenticationPrincipal Jwt jwt) {
+        checkBulkSize(issueRequests);
+        BulkItemResult[] results = new BulkItemResult[issueRequests.size()];
+        Map<UUID, Boolean> projectAccess = cachedUserChecker.canModifyEachProject(issueRequests.stream()
+                .filter(Objects::nonNull)
+                .map(IssueRequest::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        for (int i = 0; i < issueRequests.size(); i++) {
+            IssueRequest issueRequest = issueRequests.get(i);
+            String violations = describeViolations(issueRequest);
+            if (violations != null) {
+                results[i] = BulkItemResult.failure(i, violations);
+            } else if (!projectAccess.get(issueRequest.getProjectId())) {
+                results[i] = BulkItemResult.failure(i, "Not allowed to modify project " + issueRequest.getProjectId());
+            }
+        }
+
+        Set<UUID> changedProjects = new HashSet<>();
+        for (int i = 0; i < issueRequests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            try {
+                Issue issue = issueService.createIssue(issueRequests.get(i), jwt);
+                changedProjects.add(issueRequests.get(i).getProjectId());
+                issueChangeFeed.publish(issueRequests.get(i).getProjectId(), IssueChangeFeed.ChangeType.CREATED, issueIdOf(issue));
+                activityLogDispatcher.logActivity(null, issue, jwt, EntityNames.of(IssueRequest.class));
+                results[i] = BulkItemResult.success(i, "Issue created successfully");
+            } catch (RuntimeException e) {
+                results[i] = BulkItemResult.failure(i, describeFailure(e, "Issue could not be created"));
+            }
+        }
+        if (!changedProjects.isEmpty()) {
+            issueReadCache.invalidateIssues(tenantId, changedProjects, Set.of());
+        }
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Bulk create processed", Arrays.asList(results)));
+    }
+
+    @PutMapping(value = "/bulk")
+    @Operation(summary = "Update issues in bulk", description = "Validates every update first, then applies the valid ones and reports the outcome per item")
+    public ResponseEntity<ApiResponseHandler<List<BulkItemResult>>> updateIssuesInBulk(
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
+            @RequestBody @Parameter(description = "Issues to be updated, each with its ID", required = true) List<BulkIssueUpdateRequest> updateRequests,
+            @AuthenticationPrincipal Jwt jwt) {
+        checkBulkSize(updateRequests);
+        BulkItemResult[] results = new BulkItemResult[updateRequests.size()];
+        Map<UUID, Boolean> projectAccess = cachedUserChecker.canModifyEachProject(updateRequests.stream()
+                .filter(Objects::nonNull)
+                .map(BulkIssueUpdateRequest::getIssue)
+                .filter(Objects::nonNull)
+                .map(IssueRequest::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        for (int i = 0; i < updateRequests.size(); i++) {
+            BulkIssueUpdateRequest updateRequest = updateRequests.get(i);
+            String violations = describeViolations(updateRequest);
+            if (violations != null) {
+                results[i] = BulkItemResult.failure(i, violations);
+            } else if (!projectAccess.get(updateRequest.getIssue().getProjectId())) {
+                results[i] = BulkItemResult.failure(i, "Not allowed to modify project " + updateRequest.getIssue().getProjectId());
+            }
+        }
+
+        Set<UUID> changedProjects = new HashSet<>();
+        Set<UUID> changedIssues = new HashSet<>();
+        for (int i = 0; i < updateRequests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            BulkIssueUpdateRequest bulkUpdate = updateRequests.get(i);
+            try {
+                UpdateRequest<Issue> updateRequest = issueService.updateIssue(bulkUpdate.getIssueId(), bulkUpdate.getIssue(), jwt);
+                changedProjects.addAll(projectIdsOf(updateRequest));
+                changedIssues.add(bulkUpdate.getIssueId());
+                publishChange(updateRequest, IssueChangeFeed.ChangeType.UPDATED, bulkUpdate.getIssueId());
+                activityLogDispatcher.logActivity(updateRequest.getOldValue(), updateRequest.getUpdatedValue(), jwt, EntityNames.of(IssueRequest.class));
+                results[i] = BulkItemResult.success(i, "Issue updated successfully");
+            } catch (RuntimeException e) {
+                results[i] = BulkItemResult.failure(i, describeFailure(e, "Issue could not be updated"));
+            }
+        }
+        if (!changedIssues.isEmpty()) {
+            issueReadCache.invalidateIssues(tenantId, changedProjects, changedIssues);
+        }
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Bulk update processed", Arrays.asList(results)));
+    }
+
+    @PatchMapping(value = "/bulk/update-status")
+    @Operation(summary = "Update issue statuses in bulk", description = "Validates every status change first, then applies the valid ones and reports the outcome per item")
+    public ResponseEntity<ApiResponseHandler<List<BulkItemResult>>> updateStatusOfIssuesInBulk(
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
+            @RequestBody @Parameter(description = "Status changes to be applied", required = true) List<StatusUpdateRequest> statusUpdateRequests,
+            @AuthenticationPrincipal Jwt jwt) {
+        checkBulkSize(statusUpdateRequests);
+        BulkItemResult[] results = new BulkItemResult[statusUpdateRequests.size()];
+
+        for (int i = 0; i < statusUpdateRequests.size(); i++) {
+            String violations = describeViolations(statusUpdateRequests.get(i));
+            if (violations != null) {
+                results[i] = BulkItemResult.failure(i, violations);
+            }
+        }
+
+        List<UUID> issueIds = new ArrayList<>();
+        for (int i = 0; i < statusUpdateRequests.size(); i++) {
+            if (results[i] == null) {
+                issueIds.add(statusUpdateRequests.get(i).getIssueId());
+            }
+        }
+        Map<UUID, RuntimeException> completedProjects = cachedUserChecker.denyIfProjectCompletedByIssueIds(issueIds);
+
+        Set<UUID> changedProjects = new HashSet<>();
+        Set<UUID> changedIssues = new HashSet<>();
+        for (int i = 0; i < statusUpdateRequests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            StatusUpdateRequest statusUpdateRequest = statusUpdateRequests.get(i);
+            RuntimeException denial = completedProjects.get(statusUpdateRequest.getIssueId());
+            if (denial != null) {
+                results[i] = BulkItemResult.failure(i, describeFailure(denial, "Issue status could not be updated"));
+                continue;
+            }
+            try {
+                UpdateRequest updateRequest = issueService.updateIssueStatus(statusUpdateRequest);
+                changedProjects.addAll(projectIdsOf(updateRequest));
+                changedIssues.add(statusUpdateRequest.getIssueId());
+                publishChange(updateRequest, IssueChangeFeed.ChangeType.STATUS_CHANGED, statusUpdateRequest.getIssueId());
+                activityLogDispatcher.logActivity(updateRequest.getOldValue(), updateRequest.getUpdatedValue(), jwt, EntityNames.of(updateRequest.getClass()));
+                results[i] = BulkItemResult.success(i, "Issue status updated successfully");
+            } catch (RuntimeException e) {
+                results[i] = BulkItemResult.failure(i, describeFailure(e, "Issue status could not be updated"));
+            }
+        }
+        if (!changedIssues.isEmpty()) {
+            issueReadCache.invalidateIssues(tenantId, changedProjects, changedIssues);
+        }
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Bulk status update processed", Arrays.asList(results)));
+    }
+
+    /**
+     * Publishes a change to the project the issue is in now. When the update moved the issue, the
+     * project it left also receives {@code DELETED} so its board drops the card.
+     */
+    private void publishChange(UpdateRequest<?> updateRequest, IssueChangeFeed.ChangeType type, UUID issueId) {
+        UUID oldProjectId = projectIdOf(issueOf(updateRequest.getOldValue()));
+        UUID newProjectId = projectIdOf(issueOf(updateRequest.getUpdatedValue()));
+        if (newProjectId == null) {
+            newProjectId = oldProjectId;
+        }
+        if (oldProjectId != null && !oldProjectId.equals(newProjectId)) {
+            issueChangeFeed.publish(oldProjectId, IssueChangeFeed.ChangeType.DELETED, issueId);
+        }
+        issueChangeFeed.publish(newProjectId, type, issueId);
+    }
+
+    /**
+     * Returns the issue an entity returned by {@link IssueService} belongs to: the issue itself,
+     * or the issue a comment is attached to. The first value that resolves wins.
+     */
+    private static Issue issueOf(Object... values) {
+        for (Object value : values) {
+            if (value instanceof Issue issue) {
+                return issue;
+            }
+            if (value instanceof Comments comment && comment.getIssue() != null) {
+                return comment.getIssue();
+            }
+        }
+        return null;
+    }
+
+    private static UUID issueIdOf(Issue issue) {
+        return issue == null ? null : issue.getIssueId();
+    }
+
+    private static UUID projectIdOf(Issue issue) {
+        return issue == null || issue.getProject() == null ? null : issue.getProject().getProjectId();
+    }
+
+    /**
+     * Projects an update touched, old and new, so a moved issue is invalidated in both.
+     */
+    private static Set<UUID> projectIdsOf(UpdateRequest<?> updateRequest) {
+        Set<UUID> projectIds = new LinkedHashSet<>();
+        projectIds.add(projectIdOf(issueOf(updateRequest.getOldValue())));
+        projectIds.add(projectIdOf(issueOf(updateRequest.getUpdatedValue())));
+        projectIds.remove(null);
+        return projectIds;
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Bulk requests must contain between 1 and " + MAX_BULK_SIZE + " items");
+        }
+    }
+
+    /**
+     * Turns a per-item failure into a message that is safe to return to the client. Only
+     * reasons the application raised on purpose are passed through; anything else is logged.
+     */
+    private String describeFailure(RuntimeException e, String fallback) {
+        if (e instanceof ResponseStatusException statusException && statusException.getReason() != null) {
+            return statusException.getReason();
+        }
+        if (e instanceof AccessDeniedException) {
+            return "Access denied";
+        }
+        log.warn("Bulk item failed: {}", fallback, e);
+        return fallback;
+    }
+
+    private <T> String describeViolations(T item) {
+        if (item == null) {
+            return "Item cannot be null";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
     @GetMapping(value = "/search")
     @Operation(summary = "Search for issues", description = "Search for issues with pagination")
     @ApiResponses({
@@ -398,7 +712,8 @@ public class IssueController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @RequestParam(required = false) UUID projectId) {
 
-        Map<String, Object> data = issueService.getCounts(fromDate, toDate, projectId, subdomain);
+        Map<String, Object> data = issueReadCache.getCounts(subdomain, fromDate, toDate, projectId,
+                () -> issueService.getCounts(fromDate, toDate, projectId, subdomain));
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Successfully retrieved counts", data));
     }
 
@@ -407,18 +722,67 @@ public class IssueController {
     public ResponseEntity<ApiResponseHandler<List<AttachmentRequest>>> uploadAttachments(
             @RequestPart(value = "attachments", required = false) List<MultipartFile> attachments,
             @AuthenticationPrincipal Jwt jwt) {
-        List<AttachmentRequest> uploadedFiles = issueService.uploadAttachments(attachments, jwt);
+        List<AttachmentRequest> uploadedFiles = storageCallLimiter.call(() -> issueService.uploadAttachments(attachments, jwt));
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponseHandler<>(true, "Attachments uploaded successfully", uploadedFiles));
     }
 
+    @PostMapping(value = "/upload-attachments/chunked")
+    @Operation(summary = "Start a chunked upload", description = "Starts a resumable upload for a large attachment and returns its upload ID")
+    public ResponseEntity<ApiResponseHandler<ChunkedUploadStatusResponse>> initChunkedUpload(
+            @Valid @RequestBody ChunkedUploadInitRequest initRequest,
+            @AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponseHandler<>(true, "Chunked upload started", chunkedUploadService.initUpload(initRequest, jwt)));
+    }
+
+    @PutMapping(value = "/upload-attachments/chunked/{uploadId}/{chunkIndex}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload a chunk", description = "Stores one chunk of a chunked upload; chunks may be sent in any order and retried")
+    public ResponseEntity<ApiResponseHandler<ChunkedUploadStatusResponse>> putChunk(
+            @PathVariable String uploadId,
+            @PathVariable int chunkIndex,
+            @Parameter(description = "Optional SHA-256 hex digest of the chunk") @RequestHeader(value = "X-Chunk-Checksum", required = false) String checksum,
+            InputStream body,
+            @AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Chunk uploaded successfully", chunkedUploadService.putChunk(uploadId, chunkIndex, body, checksum, jwt)));
+    }
+
+    @GetMapping(value = "/upload-attachments/chunked/{uploadId}")
+    @Operation(summary = "Get chunked upload status", description = "Lists the chunks received so far so a client can resume an interrupted upload")
+    public ResponseEntity<ApiResponseHandler<ChunkedUploadStatusResponse>> getChunkedUploadStatus(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Upload status fetched successfully", chunkedUploadService.getStatus(uploadId, jwt)));
+    }
+
+    @PostMapping(value = "/upload-attachments/chunked/{uploadId}/complete")
+    @Operation(summary = "Complete a chunked upload", description = "Joins the uploaded chunks, stores the file and returns its attachment details")
+    public ResponseEntity<ApiResponseHandler<List<AttachmentRequest>>> completeChunkedUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal Jwt jwt) {
+        List<AttachmentRequest> uploadedFiles = chunkedUploadService.completeUpload(uploadId, jwt);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponseHandler<>(true, "Attachments uploaded successfully", uploadedFiles));
+    }
+
+    @DeleteMapping(value = "/upload-attachments/chunked/{uploadId}")
+    @Operation(summary = "Abort a chunked upload", description = "Discards a chunked upload and its staged chunks")
+    public ResponseEntity<ApiResponseHandler<Object>> abortChunkedUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal Jwt jwt) {
+        chunkedUploadService.abortUpload(uploadId, jwt);
+        return ResponseEntity.ok(new ApiResponseHandler<>(true, "Chunked upload aborted"));
+    }
+
     @Operation(summary = "Delete an attachment", description = "Deletes an attachment from MinIO and the database")
     @DeleteMapping(value = "/attachments/{attachmentId}")
     public ResponseEntity<ApiResponseHandler<Object>> deleteAttachment(
+            @RequestHeader(value = AppConstants.X_TENANT_ID_HEADER, required = false) String tenantId,
             @PathVariable UUID attachmentId,
             @AuthenticationPrincipal Jwt jwt) {
 
         issueService.deleteAttachment(attachmentId, jwt);
+        issueReadCache.invalidateTenant(tenantId);
         return ResponseEntity.ok(new ApiResponseHandler<>(true, "Attachment deleted successfully"));
     }
 
@@ -431,11 +795,19 @@ public class IssueController {
 
     @GetMapping(value = "/download")
     @Operation(summary = "Download a file", description = "Downloads a file from the server")
-    public ResponseEntity<byte[]> downloadFile(@RequestParam String fileName) throws FileNotFoundException {
-        byte[] fileData = issueService.downloadFile(fileName);
+    public ResponseEntity<byte[]> downloadFile(@RequestParam String fileName, @AuthenticationPrincipal Jwt jwt) throws FileNotFoundException {
+        byte[] fileData = storageCallLimiter.call(() -> issueService.downloadFile(fileName));
+        DistributionSummary.builder("issues.attachments.downloaded")
+                .baseUnit("bytes")
+                .tag("tenant", MetricsConfig.tenantTag(jwt))
+                .register(meterRegistry)
+                .record(fileData.length);
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(fileData);
     }
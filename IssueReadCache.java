@@ -0,0 +1,205 @@
+package com.example.managementservice.service;
+
+import com.example.managementservice.exchange.request.*;
+import com.example.managementservice.exchange.response.*;
+import com.example.managementservice.utils.BoundedTtlCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache for the assembled responses behind the issue detail page. Disabled unless
+ * {@code issue-cache.enabled=true}; when disabled every lookup goes straight to the loader.
+ * Dashboard counts can be switched on separately with {@code issue-cache.counts-enabled}.
+ * Only writes that pass through {@code IssueController} invalidate entries, so the TTL bounds
+ * staleness for changes made elsewhere. Invalidations are scoped to the tenant, and to the
+ * project where the write identifies one. They are forwarded to every
+ * {@link IssueCacheBroadcaster} bean so other nodes can evict their copies.
+ * <p>
+ * Entries are shared by every user of a tenant and the loaders do no per-user checks, so a hit
+ * skips nothing the service would have enforced. Callers must still check project access
+ * themselves before reading, as {@code IssueController} does through {@code CachedUserChecker}.
+ */
+@Component
+public class IssueReadCache {
+
+    /**
+     * Hook for propagating invalidations to other nodes. Receivers call
+     * {@link #evictIssues(String, Set, Set)}, {@link #evictComments(String, UUID)} or
+     * {@link #evictTenant(String)} so the event is not re-broadcast.
+     */
+    public interface IssueCacheBroadcaster {
+
+        void issuesInvalidated(String tenant, Set<UUID> projectIds, Set<UUID> issueIds);
+
+        void commentsInvalidated(String tenant, UUID issueId);
+
+        void tenantInvalidated(String tenant);
+    }
+
+    private record IssueKey(String tenant, UUID issueId) {
+    }
+
+    private record IssueNumberKey(String tenant, UUID projectId, Long key) {
+    }
+
+    private record CountsKey(String tenant, LocalDate fromDate, LocalDate toDate, UUID projectId) {
+    }
+
+    private final boolean enabled;
+    private final boolean countsEnabled;
+    private final ObjectProvider<IssueCacheBroadcaster> broadcasters;
+    private final BoundedTtlCache<IssueKey, IssueResponse> issuesById;
+    private final BoundedTtlCache<IssueNumberKey, IssueResponse> issuesByKey;
+    private final BoundedTtlCache<IssueKey, ParentIssueDetails> childIssues;
+    private final BoundedTtlCache<IssueKey, List<CommentResponse>> comments;
+    private final BoundedTtlCache<CountsKey, Map<String, Object>> counts;
+
+    public IssueReadCache(@Value("${issue-cache.enabled:false}") boolean enabled,
+                          @Value("${issue-cache.counts-enabled:${issue-cache.enabled:false}}") boolean countsEnabled,
+                          @Value("${issue-cache.max-size:10000}") int maxSize,
+                          @Value("${issue-cache.ttl-ms:60000}") long ttlMillis,
+                          ObjectProvider<IssueCacheBroadcaster> broadcasters) {
+        this.enabled = enabled;
+        this.countsEnabled = countsEnabled;
+        this.broadcasters = broadcasters;
+        this.issuesById = new BoundedTtlCache<>(maxSize, ttlMillis);
+        this.issuesByKey = new BoundedTtlCache<>(maxSize, ttlMillis);
+        this.childIssues = new BoundedTtlCache<>(maxSize, ttlMillis);
+        this.comments = new BoundedTtlCache<>(maxSize, ttlMillis);
+        this.counts = new BoundedTtlCache<>(maxSize, ttlMillis);
+    }
+
+    public IssueResponse getIssueById(String tenant, UUID issueId, Supplier<IssueResponse> loader) {
+        return enabled ? issuesById.get(new IssueKey(tenant, issueId), k -> loader.get()) : loader.get();
+    }
+
+    public IssueResponse getIssueByKey(String tenant, UUID projectId, Long key, Supplier<IssueResponse> loader) {
+        return enabled ? issuesByKey.get(new IssueNumberKey(tenant, projectId, key), k -> loader.get()) : loader.get();
+    }
+
+    public ParentIssueDetails getChildIssues(String tenant, UUID parentId, Supplier<ParentIssueDetails> loader) {
+        return enabled ? childIssues.get(new IssueKey(tenant, parentId), k -> loader.get()) : loader.get();
+    }
+
+    public List<CommentResponse> getComments(String tenant, UUID issueId, Supplier<List<CommentResponse>> loader) {
+        return enabled ? comments.get(new IssueKey(tenant, issueId), k -> loader.get()) : loader.get();
+    }
+
+    /**
+     * Dashboard counts are polled by every open tab but only change when an issue does, so a
+     * cached result is shared until the next write to its tenant and project or the TTL,
+     * whichever comes first.
+     */
+    public Map<String, Object> getCounts(String tenant, LocalDate fromDate, LocalDate toDate, UUID projectId,
+                                         Supplier<Map<String, Object>> loader) {
+        return countsEnabled ? counts.get(new CountsKey(tenant, fromDate, toDate, projectId), k -> loader.get()) : loader.get();
+    }
+
+    /**
+     * Invalidates what a write to one issue may have changed within its tenant. Pass a
+     * {@code null} issue ID after a create, when only the derived lookups of the project are stale.
+     */
+    public void invalidateIssue(String tenant, UUID projectId, UUID issueId) {
+        invalidateIssues(tenant, nonNullSet(projectId), nonNullSet(issueId));
+    }
+
+    /**
+     * Invalidates the entries touched by a batch of writes in one pass, so bulk endpoints call it
+     * once after the loop instead of once per item.
+     */
+    public void invalidateIssues(String tenant, Collection<UUID> projectIds, Collection<UUID> issueIds) {
+        Set<UUID> projects = withoutNulls(projectIds);
+        Set<UUID> issues = withoutNulls(issueIds);
+        evictIssues(tenant, projects, issues);
+        broadcasters.forEach(b -> b.issuesInvalidated(tenant, projects, issues));
+    }
+
+    /**
+     * Invalidates the cached comments of one issue, or of the whole tenant when the issue of a
+     * comment could not be resolved.
+     */
+    public void invalidateComments(String tenant, UUID issueId) {
+        evictComments(tenant, issueId);
+        broadcasters.forEach(b -> b.commentsInvalidated(tenant, issueId));
+    }
+
+    /**
+     * Drops every cached entry of one tenant, for writes whose affected issue is not known.
+     */
+    public void invalidateTenant(String tenant) {
+        evictTenant(tenant);
+        broadcasters.forEach(b -> b.tenantInvalidated(tenant));
+    }
+
+    /**
+     * Key lookups and dashboard counts are dropped for the affected projects only, or for the
+     * whole tenant when no project is known. Child lists are keyed by parent, which a write does
+     * not identify, so those are dropped for the tenant.
+     */
+    public void evictIssues(String tenant, Set<UUID> projectIds, Set<UUID> issueIds) {
+        if (enabled) {
+            if (!issueIds.isEmpty()) {
+                issuesById.invalidateIf(k -> Objects.equals(tenant, k.tenant()) && issueIds.contains(k.issueId()));
+                comments.invalidateIf(k -> Objects.equals(tenant, k.tenant()) && issueIds.contains(k.issueId()));
+            }
+            issuesByKey.invalidateIf(k -> Objects.equals(tenant, k.tenant())
+                    && (projectIds.isEmpty() || projectIds.contains(k.projectId())));
+            childIssues.invalidateIf(k -> Objects.equals(tenant, k.tenant()));
+        }
+        if (countsEnabled) {
+            // A project-wide count row and the tenant-wide row (null project) both include the issue.
+            counts.invalidateIf(k -> Objects.equals(tenant, k.tenant())
+                    && (projectIds.isEmpty() || k.projectId() == null || projectIds.contains(k.projectId())));
+        }
+    }
+
+    public void evictComments(String tenant, UUID issueId) {
+        if (!enabled) {
+            return;
+        }
+        comments.invalidateIf(k -> Objects.equals(tenant, k.tenant())
+                && (issueId == null || issueId.equals(k.issueId())));
+    }
+
+    public void evictTenant(String tenant) {
+        if (enabled) {
+            issuesById.invalidateIf(k -> Objects.equals(tenant, k.tenant()));
+            issuesByKey.invalidateIf(k -> Objects.equals(tenant, k.tenant()));
+            childIssues.invalidateIf(k -> Objects.equals(tenant, k.tenant()));
+            comments.invalidateIf(k -> Objects.equals(tenant, k.tenant()));
+        }
+        if (countsEnabled) {
+            counts.invalidateIf(k -> Objects.equals(tenant, k.tenant()));
+        }
+    }
+
+    public Map<String, Map<String, Long>> getStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        stats.put("issuesById", issuesById.getStats());
+        stats.put("issuesByKey", issuesByKey.getStats());
+        stats.put("childIssues", childIssues.getStats());
+        stats.put("comments", comments.getStats());
+        stats.put("counts", counts.getStats());
+        return stats;
+    }
+
+    private static Set<UUID> nonNullSet(UUID id) {
+        return id == null ? Set.of() : Set.of(id);
+    }
+
+    private static Set<UUID> withoutNulls(Collection<UUID> ids) {
+        return ids.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+}
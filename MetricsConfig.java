@@ -0,0 +1,128 @@
+package com.example.managementservice.config;
+
+import com.example.managementservice.config.multitenant.CachedUserChecker;
+import com.example.managementservice.service.IssueChangeFeed;
+import com.example.managementservice.service.IssueReadCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Registers the issue service metrics: {@code @Timed} support for controller methods, gauges and
+ * counters for the activity log queue, the read and permission caches and the change feed, and a
+ * cap on the number of distinct {@code tenant} tag values. Tenant tags come from the authenticated
+ * token, never from request headers; values past the cap are reported as {@code other}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String TENANT_TAG = "tenant";
+    private static final String OTHER_TENANT = "other";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterFilter tenantTagCardinalityFilter(@Value("${metrics.tenant-tag.max-values:100}") int maxTenants) {
+        return new TenantTagLimit(maxTenants);
+    }
+
+    /**
+     * The tenant of the token, taken from the last path segment of its issuer, which is the realm.
+     */
+    public static String tenantTag(Jwt jwt) {
+        if (jwt == null || jwt.getIssuer() == null) {
+            return "unknown";
+        }
+        String issuer = jwt.getIssuer().toString();
+        if (issuer.endsWith("/")) {
+            issuer = issuer.substring(0, issuer.length() - 1);
+        }
+        return issuer.substring(issuer.lastIndexOf('/') + 1);
+    }
+
+    @Bean
+    public MeterBinder issueComponentMetrics(ActivityLogDispatcher activityLogDispatcher,
+                                             IssueReadCache issueReadCache,
+                                             CachedUserChecker cachedUserChecker,
+                                             IssueChangeFeed issueChangeFeed) {
+        return registry -> {
+            Gauge.builder("issues.activity_log.queue.depth", activityLogDispatcher, ActivityLogDispatcher::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("issues.activity_log.batch.size", activityLogDispatcher, ActivityLogDispatcher::getLastBatchSize)
+                    .register(registry);
+            FunctionCounter.builder("issues.activity_log.dropped", activityLogDispatcher, ActivityLogDispatcher::getDroppedEntries)
+                    .register(registry);
+            FunctionCounter.builder("issues.activity_log.failed", activityLogDispatcher, ActivityLogDispatcher::getFailedEntries)
+                    .register(registry);
+
+            issueReadCache.getStats().keySet().forEach(cache ->
+                    bindCacheStats(registry, "issues.cache", cache, issueReadCache, c -> c.getStats().get(cache)));
+            bindCacheStats(registry, "issues.cache", "permissions", cachedUserChecker, CachedUserChecker::getStats);
+
+            Gauge.builder("issues.change_feed.subscribers", issueChangeFeed, IssueChangeFeed::getSubscriberCount)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Lets the first {@code maxTenants} distinct tenants through on {@code issues} meters and
+     * reports any later one as {@code other}, so its data is kept rather than dropped.
+     */
+    private static final class TenantTagLimit implements MeterFilter {
+        private final int maxTenants;
+        private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private TenantTagLimit(int maxTenants) {
+            this.maxTenants = maxTenants;
+        }
+
+        @Override
+        public Meter.Id map(Meter.Id id) {
+            String tenant = id.getTag(TENANT_TAG);
+            if (tenant == null || !id.getName().startsWith("issues") || admitted.contains(tenant)) {
+                return id;
+            }
+            lock.lock();
+            try {
+                if (admitted.size() < maxTenants) {
+                    admitted.add(tenant);
+                    return id;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return id.withTag(Tag.of(TENANT_TAG, OTHER_TENANT));
+        }
+    }
+
+    /**
+     * Gauges and function counters hold their state object weakly, so the state is the
+     * singleton bean that owns the cache rather than a lambda that would be collected.
+     */
+    private static <T> void bindCacheStats(MeterRegistry registry, String prefix, String cache, T owner,
+                                           Function<T, Map<String, Long>> stats) {
+        Gauge.builder(prefix + ".size", owner, o -> stats.apply(o).get("size")).tag("cache", cache).register(registry);
+        FunctionCounter.builder(prefix + ".hits", owner, o -> stats.apply(o).get("hits")).tag("cache", cache).register(registry);
+        FunctionCounter.builder(prefix + ".misses", owner, o -> stats.apply(o).get("misses")).tag("cache", cache).register(registry);
+        FunctionCounter.builder(prefix + ".evictions", owner, o -> stats.apply(o).get("evictions")).tag("cache", cache).register(registry);
+    }
+}
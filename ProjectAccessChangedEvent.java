@@ -0,0 +1,10 @@
+package com.example.managementservice.config.multitenant;
+
+import java.util.UUID;
+
+/**
+ * Published when project membership changes or a project is completed, so cached permission
+ * decisions for that project are dropped. A {@code null} project drops every cached decision.
+ */
+public record ProjectAccessChangedEvent(UUID projectId) {
+}
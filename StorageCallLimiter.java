@@ -0,0 +1,56 @@
+package com.example.managementservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many requests talk to attachment storage at once. Platform request threads are
+ * already bounded by Tomcat's {@code maxThreads}; on virtual threads nothing else is, so the
+ * limit only applies when {@code app.virtual-threads.enabled} or
+ * {@code spring.threads.virtual.enabled} is set. The permit count defaults to the JDBC pool size
+ * and can be set with {@code app.storage.max-concurrent-calls}. A request that waits longer than
+ * {@code app.storage.acquire-timeout-ms} for a permit gets 503.
+ */
+@Component
+public class StorageCallLimiter {
+
+    @FunctionalInterface
+    public interface StorageCall<T, E extends Exception> {
+
+        T call() throws E;
+    }
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public StorageCallLimiter(@Value("${app.virtual-threads.enabled:${spring.threads.virtual.enabled:false}}") boolean virtualThreads,
+                              @Value("${app.storage.max-concurrent-calls:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrentCalls,
+                              @Value("${app.storage.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        this.permits = virtualThreads ? new Semaphore(maxConcurrentCalls, true) : null;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public <T, E extends Exception> T call(StorageCall<T, E> call) throws E {
+        if (permits == null) {
+            return call.call();
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Attachment storage is busy, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for attachment storage");
+        }
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+}
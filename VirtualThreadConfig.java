@@ -0,0 +1,54 @@
+package com.example.managementservice.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs request handling and {@code @Async} work on virtual threads when
+ * {@code app.virtual-threads.enabled=true}. Blocking JDBC, bucket storage and JWT lookups then park
+ * a virtual thread instead of holding a Tomcat worker, while the JDBC connection pool size stays
+ * the effective limit on concurrent database work. Start the JVM with
+ * {@code -Djdk.tracePinnedThreads=short} to report code that pins a carrier thread inside a
+ * {@code synchronized} block.
+ * <p>
+ * Without Tomcat's {@code maxThreads} nothing bounds how many requests run at once, so calls to
+ * attachment storage go through {@link StorageCallLimiter}. On Spring Boot 3.2 or later prefer
+ * {@code spring.threads.virtual.enabled=true}, which configures Tomcat and the task executor
+ * itself; this configuration then steps aside, and the limiter honours either property.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${app.virtual-threads.enabled:false} and !${spring.threads.virtual.enabled:false}")
+public class VirtualThreadConfig {
+
+    // Tomcat does not shut down an executor it was handed, so both are closed here.
+    private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService taskExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(taskExecutor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        requestExecutor.shutdown();
+        taskExecutor.shutdown();
+    }
+}